@@ -69,6 +69,7 @@ class SnowflakeFinder {
                 Copied copied = (Copied) beanClass.getAnnotation(Copied.class);
                 if (copied != null) {
                     bean.setCopied(true);
+                    bean.setPrototype(copied.prototype());
                 }
                 Report report = (Report) beanClass.getAnnotation(Report.class);
                 if (report != null && !report.destinationFile().isEmpty()) {
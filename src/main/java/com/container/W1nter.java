@@ -4,6 +4,7 @@
 package com.container;
 
 import com.container.context.Bean;
+import com.container.context.SnowflakeCopier;
 import com.container.context.exceptions.BeanCreationException;
 import com.container.context.exceptions.DeniedBeanCreationException;
 import com.container.context.exceptions.SnowflakeDoesNotExistException;
@@ -115,6 +116,27 @@ public class W1nter {
         return createdBeans.get(snowflakeName).createSnowflake();
     }
 
+    /**
+     * Registers a copy function for snowflake marked with <b>@Copied(prototype = true)</b> annotation.
+     * Each call of getSnowflake(String name) will return a copy of the template instance made by the copier.
+     * The copier must treat the template as read-only, otherwise all later copies will be affected.
+     * @param snowflakeName name specified in the snowflake annotation.
+     *                      If snowflake name is null. NullPointerException wil be thrown.
+     * @param copier copy function. If null, Cloneable snowflakes will be cloned.
+     * @throws SnowflakeDoesNotExistException will be thrown if W1nter container does not contain
+     * snowflake with name specified in the parameter.
+     * @throws IllegalArgumentException will be thrown if snowflake is not marked as copied prototype.
+     */
+    public void registerCopier(String snowflakeName, SnowflakeCopier copier) throws SnowflakeDoesNotExistException {
+        if (snowflakeName == null) {
+            throw new NullPointerException("Snowflake name is null!");
+        }
+        if (!createdBeans.containsKey(snowflakeName)) {
+            throw new SnowflakeDoesNotExistException("W1nter does not contain snowflake with name: " + snowflakeName);
+        }
+        createdBeans.get(snowflakeName).setCopier(copier);
+    }
+
     /**
      * This method finds and intantiates beans.
      * @param packagePath path of the package.
@@ -14,6 +14,8 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
@@ -30,6 +32,10 @@ public class Bean {
      * The value indicates whether the class was marked with @Copied annotation.
      */
     private boolean copied;
+    /**
+     * The value indicates whether the class was marked with @Copied(prototype = true) annotation.
+     */
+    private boolean prototype;
     /**
      * The value indicates whether the class was marked with @Denied annotation.
      */
@@ -50,6 +56,18 @@ public class Bean {
      * The value stores the instance of the class marked with snowflake annotation.
      */
     private Object beanInstance;
+    /**
+     * The value stores the template instance that prototype beans are copied from.
+     */
+    private Object templateInstance;
+    /**
+     * The value stores the copy function registered for prototype beans.
+     */
+    private SnowflakeCopier copier;
+    /**
+     * The value stores the clone method used for Cloneable prototype beans.
+     */
+    private Method cloneMethod;
 
 
     /**
@@ -85,6 +103,39 @@ public class Bean {
         this.copied = copied;
     }
 
+    /**
+     * @return Returns true if copies of the class are made from a template instance.
+     */
+    public boolean isPrototype() {
+        return prototype;
+    }
+
+    /**
+     * @param prototype Sets the prototype value. If true - the constructor is called once
+     *                  and copied objects are created from the template instance.
+     */
+    public void setPrototype(boolean prototype) {
+        this.prototype = prototype;
+    }
+
+    /**
+     * @return Returns the copy function used for prototype beans or null if it was not registered.
+     */
+    SnowflakeCopier getCopier() {
+        return copier;
+    }
+
+    /**
+     * @param copier Copy function used for prototype beans. If null, Cloneable classes will be cloned.
+     * @throws IllegalArgumentException will be thrown if bean is not marked as copied prototype.
+     */
+    public void setCopier(SnowflakeCopier copier) {
+        if (!this.copied || !this.prototype) {
+            throw new IllegalArgumentException("Snowflake " + snowFlakeName + " is not a copied prototype!");
+        }
+        this.copier = copier;
+    }
+
     /**
      * @return Return true if object creation inside container is prohibited.
      */
@@ -119,7 +170,8 @@ public class Bean {
 
     /**
      * The method is responsible for bean creation inside container. For copied objects after each call
-     * a new instance of af a class will be created. If a report path was specified, a report will be generated.
+     * a new instance of af a class will be created. Prototype objects are copied from a template instance
+     * instead of being constructed. If a report path was specified, a report will be generated.
      * @return Returns an instance of an object that was marked with snowflake annotation.
      * @throws DeniedBeanCreationException will be thrown if bean is marked as denied.
      * @throws BeanCreationException will be thrown if new instance of class cannot be created.
@@ -129,7 +181,9 @@ public class Bean {
             throw new DeniedBeanCreationException();
         }
         try {
-            if (this.copied || beanInstance == null) {
+            if (this.copied && this.prototype) {
+                beanInstance = copyTemplate();
+            } else if (this.copied || beanInstance == null) {
                     beanInstance = beanClass.newInstance();
             }
         } catch (InstantiationException | IllegalAccessException e) {
@@ -141,6 +195,91 @@ public class Bean {
         return beanInstance;
     }
 
+    /**
+     * Creates a copy of the template instance. The template is created on the first call.
+     * Registered copier is used if present, otherwise the clone method of Cloneable class is called.
+     * @return Returns a new instance copied from the template.
+     * @throws InstantiationException will be thrown if template instance cannot be created.
+     * @throws IllegalAccessException will be thrown if template instance cannot be created or cloned.
+     * @throws BeanCreationException will be thrown if the class cannot be copied
+     * or the copy is not a new instance of the class.
+     */
+    private Object copyTemplate() throws InstantiationException, IllegalAccessException, BeanCreationException {
+        if (templateInstance == null) {
+            templateInstance = beanClass.newInstance();
+        }
+        Object copy;
+        if (copier != null) {
+            try {
+                copy = copier.copy(templateInstance);
+            } catch (RuntimeException e) {
+                throw new BeanCreationException(e);
+            }
+        } else {
+            copy = cloneTemplate();
+        }
+        if (copy == null || copy == templateInstance) {
+            throw new BeanCreationException("Copy of snowflake " + snowFlakeName + " is not a new instance!");
+        }
+        if (!beanClass.isInstance(copy)) {
+            throw new BeanCreationException("Copy of snowflake " + snowFlakeName + " is not an instance of "
+                    + beanClass.getName() + "!");
+        }
+        return copy;
+    }
+
+    /**
+     * Clones the template instance of Cloneable class.
+     * @return Returns a clone of the template.
+     * @throws IllegalAccessException will be thrown if clone method cannot be accessed.
+     * @throws BeanCreationException will be thrown if the class is not Cloneable or clone method fails.
+     */
+    private Object cloneTemplate() throws IllegalAccessException, BeanCreationException {
+        if (!(templateInstance instanceof Cloneable)) {
+            throw new BeanCreationException("Prototype snowflake " + snowFlakeName
+                    + " is not Cloneable and has no registered copier!");
+        }
+        if (cloneMethod == null) {
+            cloneMethod = findCloneMethod(beanClass);
+        }
+        try {
+            return cloneMethod.invoke(templateInstance);
+        } catch (InvocationTargetException e) {
+            throw new BeanCreationException(e.getCause());
+        } catch (RuntimeException e) {
+            throw new BeanCreationException(e);
+        }
+    }
+
+    /**
+     * Recursively finds the clone method declared in the class or its superclasses.
+     * @param c Represents the class, which clone method should be found.
+     * @return Returns the accessible clone method.
+     * @throws BeanCreationException will be thrown if neither the class nor its superclasses override clone,
+     * or if the found clone method cannot be made accessible.
+     */
+    private Method findCloneMethod(Class<?> c) throws BeanCreationException {
+        if (c == null || c == Object.class) {
+            throw new BeanCreationException("Prototype snowflake " + snowFlakeName + " does not override clone!");
+        }
+        Method method;
+        try {
+            method = c.getDeclaredMethod("clone");
+        } catch (NoSuchMethodException e) {
+            return findCloneMethod(c.getSuperclass());
+        }
+        if (!Modifier.isPublic(method.getModifiers()) && c.getClassLoader() == null) {
+            throw new BeanCreationException("Prototype snowflake " + snowFlakeName
+                    + " inherits non-public clone of " + c.getName() + "!");
+        }
+        try {
+            method.setAccessible(true);
+        } catch (RuntimeException e) {
+            throw new BeanCreationException(e);
+        }
+        return method;
+    }
+
     /**
      * Generates a report. And writes it to the specified path.
      */
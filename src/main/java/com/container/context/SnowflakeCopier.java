@@ -0,0 +1,22 @@
+/**
+ * <p>
+ * The package contains classes that are used
+ * to represent the context of W1nter container.
+ * </p>
+ */
+package com.container.context;
+
+/**
+ * <p>Copy function used by prototype beans, marked with <b>@Copied(prototype = true)</b>.</p>
+ * <p>The container creates a single template instance of the snowflake and asks the copier
+ * for a new instance every time the snowflake is requested.</p>
+ */
+public interface SnowflakeCopier {
+    /**
+     * Creates a copy of the template instance.
+     * The template is shared by all copies and must be treated as read-only.
+     * @param template the template instance created by the container. Never null.
+     * @return a new instance of the snowflake class. Must not be the template itself.
+     */
+    Object copy(Object template);
+}
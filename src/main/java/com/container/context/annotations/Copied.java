@@ -11,8 +11,19 @@ import java.lang.annotation.Target;
 /**
  * The annotation is used to mark classes that may contain a lot of instances inside container.
  * If class is not marked with this annotation only one instance of the class will be created.
+ * If "prototype" is true, the constructor is called only once to build a template instance,
+ * and each new instance is copied from that template.
  */
 @Target(value = ElementType.TYPE)
 @Retention(value = RetentionPolicy.RUNTIME)
 public @interface Copied {
+    /**
+     * The value defines whether instances should be copied from a template instead of constructed.
+     * Prototype classes must either have a copier registered in W1nter container or implement Cloneable
+     * and override clone() in the class or one of its superclasses.
+     * Copies are only as deep as clone() or the copier makes them: reference fields that are not
+     * copied explicitly are shared between the template and all of its copies.
+     * @return true if instances are copied from a template.
+     */
+    boolean prototype() default false;
 }
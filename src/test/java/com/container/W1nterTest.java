@@ -1,10 +1,18 @@
 package com.container;
 
 import com.container.context.Bean;
+import com.container.context.SnowflakeCopier;
 import com.container.context.exceptions.BeanCreationException;
+import com.container.context.exceptions.DeniedBeanCreationException;
+import com.container.context.exceptions.SnowflakeDoesNotExistException;
+import com.container.snowflakes.PrototypeFox;
 import org.junit.Test;
 import java.io.IOException;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
 
 public class W1nterTest {
     private static final W1nter instance = new W1nter();
@@ -18,4 +26,58 @@ public class W1nterTest {
     public void getCreatedBeansShouldReturnUnmodifiableMap() throws ClassNotFoundException {
         instance.getCreatedBeans().put("Bean", new Bean("String", Class.forName("java.lang.String")));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void prototypeSnowflakeShouldBeConstructedOnce() throws BeanCreationException,
+            SnowflakeDoesNotExistException, DeniedBeanCreationException {
+        W1nter winter = new W1nter("com.container.snowflakes");
+        assertTrue(winter.getCreatedBeans().get("PrototypeFox").isPrototype());
+        assertFalse(winter.getCreatedBeans().get("CopiedFox").isPrototype());
+        PrototypeFox.constructorCalls = 0;
+        PrototypeFox fox1 = (PrototypeFox) winter.getSnowflake("PrototypeFox");
+        PrototypeFox fox2 = (PrototypeFox) winter.getSnowflake("PrototypeFox");
+        PrototypeFox fox3 = (PrototypeFox) winter.getSnowflake("PrototypeFox");
+        assertFalse(fox1 == fox2);
+        assertFalse(fox2 == fox3);
+        assertEquals(25, fox3.age);
+        assertEquals(1, PrototypeFox.constructorCalls);
+    }
+
+    @Test
+    public void prototypeSnowflakeShouldBeCopiedByRegisteredCopier() throws BeanCreationException,
+            SnowflakeDoesNotExistException, DeniedBeanCreationException {
+        W1nter winter = new W1nter("com.container.snowflakes");
+        winter.registerCopier("PrototypeFox", new SnowflakeCopier() {
+            @Override
+            public Object copy(Object template) {
+                PrototypeFox copy = ((PrototypeFox) template).clone();
+                copy.age++;
+                return copy;
+            }
+        });
+        PrototypeFox.constructorCalls = 0;
+        PrototypeFox fox1 = (PrototypeFox) winter.getSnowflake("PrototypeFox");
+        PrototypeFox fox2 = (PrototypeFox) winter.getSnowflake("PrototypeFox");
+        assertFalse(fox1 == fox2);
+        assertEquals(26, fox1.age);
+        assertEquals(26, fox2.age);
+        assertEquals(1, PrototypeFox.constructorCalls);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void registerCopierShouldThrowIllegalArgumentExceptionIfSnowflakeIsNotPrototype()
+            throws BeanCreationException, SnowflakeDoesNotExistException {
+        W1nter winter = new W1nter("com.container.snowflakes");
+        winter.registerCopier("CopiedFox", new SnowflakeCopier() {
+            @Override
+            public Object copy(Object template) {
+                return new Object();
+            }
+        });
+    }
+
+    @Test(expected = SnowflakeDoesNotExistException.class)
+    public void registerCopierShouldThrowSnowflakeDoesNotExistException() throws SnowflakeDoesNotExistException {
+        instance.registerCopier("Mindy", null);
+    }
+}
@@ -8,6 +8,10 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.Set;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
@@ -68,4 +72,151 @@ public class BeanTest {
         String s2 = (String) beanInstance.createSnowflake();
         assertFalse(s1 == s2);
     }
+
+    @Test
+    public void createSnowflakeShouldCloneTemplateIfBeanIsPrototype() throws BeanCreationException, DeniedBeanCreationException {
+        ClonedSnowflake.constructorCalls = 0;
+        Bean bean = new Bean("Cloned", ClonedSnowflake.class);
+        bean.setCopied(true);
+        bean.setPrototype(true);
+        ClonedSnowflake s1 = (ClonedSnowflake) bean.createSnowflake();
+        ClonedSnowflake s2 = (ClonedSnowflake) bean.createSnowflake();
+        assertFalse(s1 == s2);
+        assertEquals(1, ClonedSnowflake.constructorCalls);
+        assertEquals(1, s2.table[1]);
+        s1.size = 10;
+        s1.table[1] = 5;
+        assertEquals(2, s2.size);
+        assertEquals(1, s2.table[1]);
+    }
+
+    @Test
+    public void createSnowflakeShouldUseRegisteredCopier() throws BeanCreationException, DeniedBeanCreationException {
+        Bean bean = new Bean("Builder", StringBuilder.class);
+        bean.setCopied(true);
+        bean.setPrototype(true);
+        SnowflakeCopier copier = new SnowflakeCopier() {
+            @Override
+            public Object copy(Object template) {
+                return new StringBuilder((StringBuilder) template).append("copy");
+            }
+        };
+        bean.setCopier(copier);
+        assertTrue(bean.getCopier() == copier);
+        StringBuilder s1 = (StringBuilder) bean.createSnowflake();
+        StringBuilder s2 = (StringBuilder) bean.createSnowflake();
+        assertFalse(s1 == s2);
+        assertEquals("copy", s1.toString());
+        assertEquals("copy", s2.toString());
+    }
+
+    @Test(expected = BeanCreationException.class)
+    public void createSnowflakeShouldThrowBeanCreationExceptionIfPrototypeCannotBeCopied() throws BeanCreationException, DeniedBeanCreationException {
+        beanInstance.setCopied(true);
+        beanInstance.setPrototype(true);
+        beanInstance.createSnowflake();
+    }
+
+    @Test(expected = BeanCreationException.class)
+    public void createSnowflakeShouldThrowBeanCreationExceptionIfCloneIsNotOverridden() throws BeanCreationException, DeniedBeanCreationException {
+        Bean bean = new Bean("NotOverridden", NotOverriddenCloneSnowflake.class);
+        bean.setCopied(true);
+        bean.setPrototype(true);
+        bean.createSnowflake();
+    }
+
+    @Test(expected = BeanCreationException.class)
+    public void createSnowflakeShouldThrowBeanCreationExceptionIfInheritedCloneIsNotPublic() throws BeanCreationException, DeniedBeanCreationException {
+        Bean bean = new Bean("MapSnowflake", MapSnowflake.class);
+        bean.setCopied(true);
+        bean.setPrototype(true);
+        bean.createSnowflake();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setCopierShouldThrowIllegalArgumentExceptionIfBeanIsNotPrototype() {
+        beanInstance.setCopied(true);
+        beanInstance.setCopier(null);
+    }
+
+    @Test(expected = BeanCreationException.class)
+    public void createSnowflakeShouldThrowBeanCreationExceptionIfCloneFails() throws BeanCreationException, DeniedBeanCreationException {
+        Bean bean = new Bean("FailingClone", FailingCloneSnowflake.class);
+        bean.setCopied(true);
+        bean.setPrototype(true);
+        bean.createSnowflake();
+    }
+
+    @Test(expected = BeanCreationException.class)
+    public void createSnowflakeShouldThrowBeanCreationExceptionIfCopierReturnsTemplate() throws BeanCreationException, DeniedBeanCreationException {
+        beanInstance.setCopied(true);
+        beanInstance.setPrototype(true);
+        beanInstance.setCopier(new SnowflakeCopier() {
+            @Override
+            public Object copy(Object template) {
+                return template;
+            }
+        });
+        beanInstance.createSnowflake();
+    }
+
+    @Test(expected = BeanCreationException.class)
+    public void createSnowflakeShouldThrowBeanCreationExceptionIfCopierReturnsWrongClass() throws BeanCreationException, DeniedBeanCreationException {
+        beanInstance.setCopied(true);
+        beanInstance.setPrototype(true);
+        beanInstance.setCopier(new SnowflakeCopier() {
+            @Override
+            public Object copy(Object template) {
+                return new StringBuilder();
+            }
+        });
+        beanInstance.createSnowflake();
+    }
+
+    @Test(expected = BeanCreationException.class)
+    public void createSnowflakeShouldThrowBeanCreationExceptionIfCopierFails() throws BeanCreationException, DeniedBeanCreationException {
+        beanInstance.setCopied(true);
+        beanInstance.setPrototype(true);
+        beanInstance.setCopier(new SnowflakeCopier() {
+            @Override
+            public Object copy(Object template) {
+                throw new IllegalStateException();
+            }
+        });
+        beanInstance.createSnowflake();
+    }
+
+    public static class ClonedSnowflake implements Cloneable {
+        static int constructorCalls;
+        int size = 2;
+        int[] table = new int[]{0, 1};
+
+        public ClonedSnowflake() {
+            constructorCalls++;
+        }
+
+        @Override
+        protected Object clone() throws CloneNotSupportedException {
+            ClonedSnowflake copy = (ClonedSnowflake) super.clone();
+            copy.table = table.clone();
+            return copy;
+        }
+    }
+
+    public static class NotOverriddenCloneSnowflake implements Cloneable {
+    }
+
+    public static class FailingCloneSnowflake implements Cloneable {
+        @Override
+        protected Object clone() throws CloneNotSupportedException {
+            throw new CloneNotSupportedException();
+        }
+    }
+
+    public static class MapSnowflake extends AbstractMap<String, String> implements Cloneable {
+        @Override
+        public Set<Entry<String, String>> entrySet() {
+            return Collections.emptySet();
+        }
+    }
 }
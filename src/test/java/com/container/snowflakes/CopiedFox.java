@@ -0,0 +1,9 @@
+package com.container.snowflakes;
+
+import com.container.context.annotations.Copied;
+import com.container.context.annotations.Snowflake;
+
+@Snowflake(snowflakeName = "CopiedFox")
+@Copied
+public class CopiedFox {
+}
@@ -0,0 +1,24 @@
+package com.container.snowflakes;
+
+import com.container.context.annotations.Copied;
+import com.container.context.annotations.Snowflake;
+
+@Snowflake(snowflakeName = "PrototypeFox")
+@Copied(prototype = true)
+public class PrototypeFox implements Cloneable {
+    public static int constructorCalls;
+    public int age = 25;
+
+    public PrototypeFox() {
+        constructorCalls++;
+    }
+
+    @Override
+    public PrototypeFox clone() {
+        try {
+            return (PrototypeFox) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new AssertionError(e);
+        }
+    }
+}